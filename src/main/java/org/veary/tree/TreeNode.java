@@ -27,8 +27,10 @@ package org.veary.tree;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
@@ -42,6 +44,11 @@ import java.util.Optional;
  */
 public final class TreeNode<T> implements Iterable<TreeNode<T>> {
 
+    /**
+     * The maximum number of query results held by a node's query cache.
+     */
+    private static final int QUERY_CACHE_SIZE = 32;
+
     /**
      * The data object associated with this node.
      */
@@ -63,6 +70,19 @@ public final class TreeNode<T> implements Iterable<TreeNode<T>> {
      */
     private TreeNode<T> parent;
 
+    /**
+     * Mutation counter for this branch of the tree. Incremented each time a node is added at or
+     * below this node. The increment is not atomic; this relies on the tree having a single
+     * writer.
+     */
+    private volatile long generation;
+
+    /**
+     * LRU cache of keyed query results for this branch of the tree. Created on first use by
+     * {@link #getQueryCache()}. Access is guarded by synchronizing on the cache itself.
+     */
+    private volatile QueryCache<T> queryCache;
+
     /**
      * Constructor.
      *
@@ -181,6 +201,44 @@ public final class TreeNode<T> implements Iterable<TreeNode<T>> {
         return Optional.empty();
     }
 
+    /**
+     * Search from this node for a sub-node whose data fulfils the search criteria, caching the
+     * result against {@code queryKey}.
+     *
+     * <p>Repeated calls with an equal {@code queryKey} return the cached result until a node is
+     * added to this branch of the tree. The cache is scoped to this node, created on first
+     * use and holds a bounded number of results, evicting the least recently used. The caller is
+     * responsible for ensuring that equal keys identify equivalent searches.
+     *
+     * <p>Like {@link #findNode(TreeNodeSearch)}, this method may be called concurrently by
+     * several threads on a tree which is not being modified. The search itself runs outside the
+     * cache lock, so concurrent misses may each execute it.
+     *
+     * @param queryKey the identity of the search. Non-{@code null}.
+     * @param search an instance of {@link TreeNodeSearch}
+     * @return {@code Optional<TreeNode<T>>}
+     * @see #findNode(TreeNodeSearch)
+     */
+    public Optional<TreeNode<T>> findNode(Object queryKey, TreeNodeSearch<T> search) {
+        Objects.requireNonNull(queryKey, "Parameter 'queryKey' cannot be null.");
+        Objects.requireNonNull(search, "Parameter 'search' cannot be null.");
+
+        QueryCache<T> cache = getQueryCache();
+        long current = this.generation;
+        synchronized (cache) {
+            CachedResult<T> cached = cache.get(queryKey);
+            if (cached != null && cached.generation == current) {
+                return cached.result;
+            }
+        }
+
+        Optional<TreeNode<T>> result = findNode(search);
+        synchronized (cache) {
+            cache.put(queryKey, new CachedResult<>(current, result));
+        }
+        return result;
+    }
+
     /**
      * Returns the number of nodes under this branch of the tree.
      *
@@ -195,6 +253,25 @@ public final class TreeNode<T> implements Iterable<TreeNode<T>> {
         return new TreeNodeIterator(this);
     }
 
+    /**
+     * Returns the query cache for this node, creating it on first use.
+     *
+     * @return {@code QueryCache<T>}. Non-{@code null}.
+     */
+    private QueryCache<T> getQueryCache() {
+        QueryCache<T> cache = this.queryCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = this.queryCache;
+                if (cache == null) {
+                    cache = new QueryCache<>(QUERY_CACHE_SIZE);
+                    this.queryCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
     /**
      * Registers the referenced node in the {@link #searchIndex}.
      *
@@ -202,6 +279,7 @@ public final class TreeNode<T> implements Iterable<TreeNode<T>> {
      */
     private void addChildToSearchIndex(TreeNode<T> node) {
         this.searchIndex.add(node);
+        this.generation++;
         if (this.parent != null) {
             this.parent.addChildToSearchIndex(node);
         }
@@ -240,6 +318,70 @@ public final class TreeNode<T> implements Iterable<TreeNode<T>> {
         boolean execute(T data);
     }
 
+    /**
+     * <b>Purpose:</b> A query result stamped with the generation of the node it was computed
+     * against.
+     *
+     * @author Marc L. Veary
+     * @since 1.0
+     * @param <T> type of object
+     */
+    private static final class CachedResult<T> {
+
+        /**
+         * The node's generation when the result was computed.
+         */
+        private final long generation;
+
+        /**
+         * The result of the search.
+         */
+        private final Optional<TreeNode<T>> result;
+
+        /**
+         * Private constructor.
+         *
+         * @param generation the node's generation
+         * @param result the result of the search
+         */
+        private CachedResult(long generation, Optional<TreeNode<T>> result) {
+            this.generation = generation;
+            this.result = result;
+        }
+    }
+
+    /**
+     * <b>Purpose:</b> Bounded, access-ordered map evicting the least recently used result.
+     *
+     * @author Marc L. Veary
+     * @since 1.0
+     * @param <T> type of object
+     */
+    private static final class QueryCache<T> extends LinkedHashMap<Object, CachedResult<T>> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The maximum number of entries.
+         */
+        private final int maxEntries;
+
+        /**
+         * Private constructor.
+         *
+         * @param maxEntries the maximum number of entries
+         */
+        private QueryCache(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, CachedResult<T>> eldest) {
+            return size() > this.maxEntries;
+        }
+    }
+
     /**
      * <b>Purpose:</b> Private inner class implementing {@link Iterator}.
      *
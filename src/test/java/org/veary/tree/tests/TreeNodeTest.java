@@ -122,6 +122,85 @@ public class TreeNodeTest {
         Assert.assertTrue(resultNotFound.isEmpty());
     }
 
+    @Test
+    public void findNodeCached() {
+        TreeNode<String> root = buildTree();
+        CountingSearch search = new CountingSearch("NEW CHILD");
+
+        Assert.assertTrue(root.findNode("query", search).isEmpty());
+        Assert.assertEquals(search.executions, root.size());
+
+        int count = search.executions;
+        Assert.assertTrue(root.findNode("query", search).isEmpty());
+        Assert.assertEquals(search.executions, count);
+
+        TreeNode<String> child = root.getChildren().get(0).addChild("NEW CHILD");
+
+        Optional<TreeNode<String>> result = root.findNode("query", search);
+        Assert.assertTrue(result.isPresent());
+        Assert.assertSame(result.get(), child);
+        Assert.assertEquals(search.executions, count + root.size());
+    }
+
+    @Test
+    public void findNodeCachedEviction() {
+        int cacheSize = probeQueryCacheSize();
+        Assert.assertTrue(cacheSize > 1);
+
+        TreeNode<String> root = buildTree();
+        CountingSearch search = new CountingSearch("TEST DATA");
+
+        for (int i = 0; i <= cacheSize; i++) {
+            root.findNode(Integer.valueOf(i), search);
+        }
+
+        // Key 0 was evicted by the last insertion; touch key 1 so key 2 becomes the eldest.
+        int count = search.executions;
+        root.findNode(Integer.valueOf(1), search);
+        Assert.assertEquals(search.executions, count);
+
+        root.findNode(Integer.valueOf(0), search);
+        Assert.assertEquals(search.executions, count + root.size());
+
+        count = search.executions;
+        root.findNode(Integer.valueOf(1), search);
+        Assert.assertEquals(search.executions, count);
+
+        root.findNode(Integer.valueOf(2), search);
+        Assert.assertEquals(search.executions, count + root.size());
+    }
+
+    @Test
+    public void findNodeCachedScope() {
+        TreeNode<String> root = buildTree();
+        TreeNode<String> child1 = root.getChildren().get(0);
+        TreeNode<String> child2 = root.getChildren().get(1);
+        TreeNode<String> child21 = child2.getChildren().get(0);
+        CountingSearch search = new CountingSearch("TEST DATA");
+
+        root.findNode("query", search);
+        child1.findNode("query", search);
+        child2.findNode("query", search);
+        child21.findNode("query", search);
+
+        child21.addChild("NEW CHILD");
+
+        int count = search.executions;
+        child1.findNode("query", search);
+        Assert.assertEquals(search.executions, count);
+
+        child21.findNode("query", search);
+        Assert.assertEquals(search.executions, count + child21.size());
+
+        count = search.executions;
+        child2.findNode("query", search);
+        Assert.assertEquals(search.executions, count + child2.size());
+
+        count = search.executions;
+        root.findNode("query", search);
+        Assert.assertEquals(search.executions, count + root.size());
+    }
+
     @Test
     public void ordering() {
         TreeNode<String> root = new TreeNode<>("BALANCE");
@@ -158,4 +237,41 @@ public class TreeNodeTest {
 
         return root;
     }
+
+    /**
+     * Finds the capacity of a node's query cache: the smallest number of distinct keys after
+     * which the first key no longer hits, less one.
+     */
+    private int probeQueryCacheSize() {
+        for (int keys = 1; keys <= 1024; keys++) {
+            TreeNode<String> root = buildTree();
+            CountingSearch search = new CountingSearch("TEST DATA");
+            for (int i = 0; i < keys; i++) {
+                root.findNode(Integer.valueOf(i), search);
+            }
+            int count = search.executions;
+            root.findNode(Integer.valueOf(0), search);
+            if (search.executions != count) {
+                return keys - 1;
+            }
+        }
+        Assert.fail("Query cache is not bounded.");
+        return -1;
+    }
+
+    private static final class CountingSearch implements TreeNode.TreeNodeSearch<String> {
+
+        private final String target;
+        private int executions;
+
+        private CountingSearch(String target) {
+            this.target = target;
+        }
+
+        @Override
+        public boolean execute(String data) {
+            this.executions++;
+            return data.equals(this.target);
+        }
+    }
 }